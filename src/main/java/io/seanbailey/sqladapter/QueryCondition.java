@@ -1,7 +1,5 @@
 package io.seanbailey.sqladapter;
 
-import java.util.StringJoiner;
-
 /**
  * Represents a single condition within an SQL query.
  */
@@ -45,19 +43,58 @@ public class QueryCondition {
 
   /**
    * Constructs and returns a representation of this condition as a string.
+   * @see #appendTo(StringBuilder, boolean)
    * @param shouldIncludeType Whether to include the condition type.
    * @return A string representation of this condition.
    */
   public String toString(boolean shouldIncludeType) {
-    StringJoiner joiner = new StringJoiner(" ");
+    return appendTo(new StringBuilder(), shouldIncludeType).toString();
+  }
 
+  /**
+   * Renders this condition directly into the given builder.
+   * The object is quoted and escaped as it is written, in place of each
+   * <code>?</code> within the condition.
+   * @param builder StringBuilder to append this condition to.
+   * @param shouldIncludeType Whether to include the condition type.
+   * @return The given builder, for chaining.
+   */
+  public StringBuilder appendTo(StringBuilder builder,
+      boolean shouldIncludeType) {
     // Add type if necessary
     if (shouldIncludeType) {
-      joiner.add(type.toString());
+      builder.append(type.name()).append(' ');
+    }
+
+    String value = object.toString();
+    for (int i = 0; i < condition.length(); i++) {
+      char c = condition.charAt(i);
+      if (c == '?') {
+        appendQuoted(builder, value);
+      } else {
+        builder.append(c);
+      }
     }
 
-    joiner.add(condition.replace("?", "\"" + object.toString() + "\""));
-    return joiner.toString();
+    return builder;
+  }
+
+  /**
+   * Appends a double quoted value, escaping any embedded quotes by doubling
+   * them.
+   * @param builder StringBuilder to append the value to.
+   * @param value Value to quote.
+   */
+  private static void appendQuoted(StringBuilder builder, String value) {
+    builder.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        builder.append('"');
+      }
+      builder.append(c);
+    }
+    builder.append('"');
   }
 
   public String getCondition() {
@@ -1,7 +1,6 @@
 package io.seanbailey.sqladapter;
 
 import java.util.LinkedList;
-import java.util.StringJoiner;
 
 /**
  * A chain of SQL operations, that can be used to generate queries.
@@ -178,49 +177,70 @@ public class SQLQuery {
    * Generate and return the SQL query as a string.
    * Note that this function should only be used for debug/output purposes.
    * Please use prepared statements instead.
+   * @see #appendTo(StringBuilder)
    * @return A representation of this query as a string.
    */
   @Override
   public String toString() {
-    StringJoiner joiner = new StringJoiner(" ");
+    return appendTo(new StringBuilder()).toString();
+  }
 
+  /**
+   * Renders the SQL query directly into the given builder.
+   * The query structure, paging, and quoted condition values are written
+   * straight into the builder, rather than joined from intermediate strings.
+   * Condition values are still converted with their own
+   * <code>toString()</code>. A single builder may be reused (by resetting its
+   * length) to render many queries.
+   *
+   * <p>
+   * This takes a <code>StringBuilder</code> rather than an
+   * <code>Appendable</code>, so that rendering never throws
+   * <code>IOException</code>.
+   * </p>
+   *
+   * @param builder StringBuilder to append the query to.
+   * @return The given builder, for chaining.
+   */
+  public StringBuilder appendTo(StringBuilder builder) {
     // Step 1: Define how the statement should start
     switch (mode) {
       case NORMAL:
-        joiner.add("SELECT * FROM");
+        builder.append("SELECT * FROM");
         break;
       case COUNT:
       case EXISTS:
-        joiner.add("SELECT COUNT(*) FROM");
+        builder.append("SELECT COUNT(*) FROM");
     }
 
     // Step 2: Add class
-    joiner.add("_");//Adapter.inferTableName(clazz));
+    builder.append(" _");//Adapter.inferTableName(clazz));
 
     // Step 3: Handle where conditions
-    generateWhere(joiner);
+    generateWhere(builder);
 
     // Step 4: Handle offsets and limits
-    generatePaging(joiner);
+    generatePaging(builder);
 
-    return joiner.toString() + ";";
+    return builder.append(';');
   }
 
   /**
    * Generates the WHERE component of an SQL statement.
-   * @param joiner StringJoiner to append WHERE to.
+   * @param builder StringBuilder to append WHERE to.
    */
-  private void generateWhere(StringJoiner joiner) {
+  private void generateWhere(StringBuilder builder) {
     // Ensure where conditions have been defined.
     if (wheres.size() == 0) {
       return;
     } 
 
-    joiner.add("WHERE");
+    builder.append(" WHERE");
     boolean first = true;
 
     for (QueryCondition condition : wheres) {
-      joiner.add(condition.toString(!first));
+      builder.append(' ');
+      condition.appendTo(builder, !first);
       first = false;
     }
   }
@@ -228,21 +248,21 @@ public class SQLQuery {
   /**
    * Generates the paging component of an SQL statement.
    * Determines what values should be displayed under LIMIT and OFFSET.
-   * @param joiner StringJoiner to append LIMIT and OFFSET to.
+   * @param builder StringBuilder to append LIMIT and OFFSET to.
    */
-  private void generatePaging(StringJoiner joiner) {
+  private void generatePaging(StringBuilder builder) {
     if (limit != null && limit >= 0) {
-      joiner.add("LIMIT " + limit);
+      builder.append(" LIMIT ").append(limit.intValue());
 
       // Handle defined page
       if (page != null) {
-        joiner.add("OFFSET " + Math.max((page - 1) * limit, 0));
+        builder.append(" OFFSET ").append(Math.max((page - 1) * limit, 0));
         return;
       }
     }
 
     if (offset != null && offset >= 0) {
-      joiner.add("OFFSET " + offset);
+      builder.append(" OFFSET ").append(offset.intValue());
     }
   }
 }
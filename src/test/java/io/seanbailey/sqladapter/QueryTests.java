@@ -92,4 +92,21 @@ public class QueryTests {
     SQLQuery query = Model.where(TestModel.class, "title", "test").or("author", "Sean Bailey");
     assertEquals("SELECT * FROM _ WHERE title = \"test\" OR author = \"Sean Bailey\";", query.toString());
   }
+
+  @Test
+  public void testWhereEscapesQuotes() {
+    SQLQuery query = Model.where(TestModel.class, "title", "say \"hi\"");
+    assertEquals("SELECT * FROM _ WHERE title = \"say \"\"hi\"\"\";", query.toString());
+  }
+
+  @Test
+  public void testAppendTo() {
+    StringBuilder builder = new StringBuilder();
+    Model.where(TestModel.class, "title", "test").per(5).page(2).appendTo(builder);
+    assertEquals("SELECT * FROM _ WHERE title = \"test\" LIMIT 5 OFFSET 5;", builder.toString());
+
+    builder.setLength(0);
+    Model.all(TestModel.class).count().appendTo(builder);
+    assertEquals("SELECT COUNT(*) FROM _;", builder.toString());
+  }
 }